@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+# 起動してから GET /v1/movie-info/{id} が初めて200を返すまでの時間とその時点のRSSを計測する
+#
+#   mvn -Paot-cds package
+#   AOT=true MOVIE_INFO_ID=abc ./scripts/startup-benchmark.sh
+#
+# AOT=true はaot-cdsプロファイルでビルドしたjarの場合のみ指定する（通常のビルドとの比較用）
+# MOVIE_INFO_ID のドキュメントは事前にMongoDBへ登録しておくこと
+set -euo pipefail
+
+JAR=${JAR:-target/movie-info-service-1.0-SNAPSHOT-aot-cds.jar}
+CDS_ARCHIVE=${CDS_ARCHIVE:-${JAR%.jar}.jsa}
+AOT=${AOT:-false}
+MOVIE_INFO_ID=${MOVIE_INFO_ID:-abc}
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+TIMEOUT_SEC=${TIMEOUT_SEC:-60}
+LOG=${LOG:-target/startup-benchmark.log}
+
+JAVA_OPTS=()
+if [[ "$AOT" == "true" ]]; then
+    JAVA_OPTS+=(-Dspring.aot.enabled=true)
+fi
+CDS=false
+if [[ -f "$CDS_ARCHIVE" ]]; then
+    # JDKの不一致や古い.jsaでアーカイブが使えない場合、CDSなしで黙って起動せずに失敗させる
+    JAVA_OPTS+=("-XX:SharedArchiveFile=$CDS_ARCHIVE" -Xshare:on)
+    CDS=true
+fi
+
+rss_kb() {
+    if [[ -r "/proc/$1/status" ]]; then
+        awk '/^VmRSS:/ {print $2}' "/proc/$1/status"
+    else
+        ps -o rss= -p "$1" | tr -d ' '
+    fi
+}
+
+# javaの起動からGETが200を返すまでを1つのperlプロセス内で計測し "<経過ミリ秒> <javaのpid>" を出力する
+# ポーリングごとにプロセスを起動すると、その時間が計測値に含まれてしまうため
+start_and_wait() {
+    perl -MTime::HiRes=time,sleep -MPOSIX=WNOHANG -MHTTP::Tiny -e '
+        my ($url, $timeout, $log, @cmd) = @ARGV;
+        my $http = HTTP::Tiny->new(timeout => 1);
+        my $start = time;
+        my $pid = fork() // die "fork: $!\n";
+        if ($pid == 0) {
+            open(STDOUT, ">>", $log) or die "$log: $!\n";
+            open(STDERR, ">&", \*STDOUT) or die "$log: $!\n";
+            exec(@cmd) or die "exec: $!\n";
+        }
+        until ($http->get($url)->{status} == 200) {
+            if (waitpid($pid, WNOHANG) != 0) {
+                print STDERR "java exited before $url succeeded\n";
+                exit 1;
+            }
+            if (time - $start > $timeout) {
+                kill("TERM", $pid);
+                print STDERR "$url did not succeed within ${timeout}s\n";
+                exit 1;
+            }
+            sleep(0.01);
+        }
+        printf "%d %d\n", (time - $start) * 1000, $pid;
+    ' "$@"
+}
+
+mkdir -p "$(dirname "$LOG")"
+: > "$LOG"
+
+echo "run,aot,cds,time_to_first_get_ms,rss_kb"
+for run in $(seq 1 "$RUNS"); do
+    if ! result=$(start_and_wait "http://localhost:$PORT/v1/movie-info/$MOVIE_INFO_ID" "$TIMEOUT_SEC" "$LOG" \
+            java ${JAVA_OPTS[@]+"${JAVA_OPTS[@]}"} -jar "$JAR" --server.port="$PORT"); then
+        echo "run $run failed, last lines of $LOG:" >&2
+        tail -n 20 "$LOG" >&2
+        exit 1
+    fi
+    read -r elapsed pid <<< "$result"
+    trap 'kill $pid 2> /dev/null || true' EXIT
+    echo "$run,$AOT,$CDS,$elapsed,$(rss_kb "$pid")"
+
+    # javaはperlの子プロセスだったためwaitできない。終了するまで待つ
+    kill "$pid"
+    while kill -0 "$pid" 2> /dev/null; do
+        sleep 0.1
+    done
+done
@@ -0,0 +1,49 @@
+package org.example;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+// mvn -Paot-cds package でAppCDSアーカイブを作成するための学習実行用エントリポイント
+// GETの経路のクラスもアーカイブに含めるため、リクエストを送ってから終了する
+@Slf4j
+public class CdsTraining {
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = SpringApplication.run(Application.class, args);
+        int exitCode;
+        try {
+            int port = ((ReactiveWebServerApplicationContext) context).getWebServer().getPort();
+            WebClient webClient = WebClient.create("http://localhost:" + port);
+            request(webClient, "/v1/movie-info/{id}", System.getProperty("cds.training.movie-info-id", "abc"));
+            request(webClient, "/v1/movie-info");
+            exitCode = SpringApplication.exit(context);
+        } catch (RuntimeException e) {
+            log.error("CDS training failed", e);
+            SpringApplication.exit(context);
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    // MongoDBに接続できない場合もビルドは失敗させないが、アーカイブに含まれないクラスが出るため警告する
+    private static void request(WebClient webClient, String uri, Object... uriVariables) {
+        webClient.get()
+                .uri(uri, uriVariables)
+                .exchangeToMono(response -> {
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        log.warn("CDS training request {} {} returned {}", uri, Arrays.toString(uriVariables), response.statusCode());
+                    }
+                    return response.bodyToMono(String.class);
+                })
+                .timeout(Duration.ofSeconds(10))
+                .doOnError(e -> log.warn("CDS training request {} {} failed: {}", uri, Arrays.toString(uriVariables), e.toString()))
+                .onErrorResume(e -> Mono.empty())
+                .block();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.config;
+
+import org.example.controller.MovieInfoController;
+import org.example.domain.MovieInfo;
+import org.example.repository.MovieInfoRepository;
+import org.example.service.MovieInfoService;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoManagedTypes;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+@Configuration
+public class StartupConfig {
+
+    // spring.main.lazy-initialization=true でもGET /v1/movie-info/{id} の経路は起動時に初期化する
+    @Bean
+    static LazyInitializationExcludeFilter movieInfoLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                MovieInfoController.class,
+                MovieInfoService.class,
+                MovieInfoRepository.class,
+                MongoMappingContext.class);
+    }
+
+    // @Documentのクラスパススキャンを省略し、MovieInfoのマッピング情報を起動時に構築する
+    // @Documentのクラスを追加した場合はここにも登録すること（登録漏れはStartupConfigTestで検出する）
+    @Bean
+    MongoManagedTypes mongoManagedTypes() {
+        return MongoManagedTypes.from(MovieInfo.class);
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.config;
+
+import org.example.controller.MovieInfoController;
+import org.example.domain.MovieInfo;
+import org.example.repository.MovieInfoRepository;
+import org.example.service.MovieInfoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.domain.EntityScanner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.mongodb.MongoManagedTypes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.main.lazy-initialization=true")
+class StartupConfigTest {
+
+    @Autowired
+    ApplicationContext applicationContext;
+
+    @Autowired
+    ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    MongoManagedTypes mongoManagedTypes;
+
+    @Test
+    void movieInfoBeansAreNotLazy() {
+        // given
+        List<String> beanNames = Stream.of(MovieInfoController.class, MovieInfoService.class, MovieInfoRepository.class, MongoMappingContext.class)
+                .flatMap(type -> Stream.of(beanFactory.getBeanNamesForType(type, false, false)))
+                .toList();
+        // when, then
+        assertThat(beanNames).hasSize(4);
+        assertThat(beanNames).allSatisfy(beanName -> {
+            assertThat(beanFactory.getBeanDefinition(beanName).isLazyInit()).isFalse();
+            assertThat(beanFactory.containsSingleton(beanName)).isTrue();
+        });
+    }
+
+    @Test
+    void mongoManagedTypesIsMovieInfoOnly() {
+        // given
+        // when, then
+        assertThat(mongoManagedTypes.toList()).containsExactly(MovieInfo.class);
+    }
+
+    @Test
+    void mongoManagedTypesCoversAllDocuments() throws ClassNotFoundException {
+        // given
+        Set<Class<?>> documents = new EntityScanner(applicationContext).scan(Document.class);
+        // when, then
+        assertThat(mongoManagedTypes.toList()).containsExactlyInAnyOrderElementsOf(documents);
+    }
+}